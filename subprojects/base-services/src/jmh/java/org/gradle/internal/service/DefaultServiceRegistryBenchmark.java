@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+
+/**
+ * Measures creating a child registry, in the way that a registry is created for each project, and looking up services from it.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DefaultServiceRegistryBenchmark {
+    private DefaultServiceRegistry parent;
+    private DefaultServiceRegistry child;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DefaultServiceRegistry global = new DefaultServiceRegistry("global");
+        global.addProvider(new GlobalServices());
+        parent = new DefaultServiceRegistry("build", global);
+        parent.addProvider(new BuildServices());
+        child = createChild();
+        child.get(ProjectService.class);
+    }
+
+    @Benchmark
+    public Object createRegistryAndService() {
+        DefaultServiceRegistry registry = createChild();
+        return registry.get(ProjectService.class);
+    }
+
+    @Benchmark
+    public Object lookupOwnService() {
+        return child.get(ProjectService.class);
+    }
+
+    @Benchmark
+    public Object lookupServiceFromParents() {
+        return child.get(GlobalService.class);
+    }
+
+    private DefaultServiceRegistry createChild() {
+        DefaultServiceRegistry registry = new DefaultServiceRegistry("project", parent);
+        registry.addProvider(new ProjectServices());
+        return registry;
+    }
+
+    public interface GlobalService {
+    }
+
+    public interface BuildService {
+    }
+
+    public interface ProjectService {
+    }
+
+    private static class DefaultGlobalService implements GlobalService, Serializable {
+    }
+
+    private static class DefaultBuildService implements BuildService, Serializable {
+        DefaultBuildService(GlobalService globalService) {
+        }
+    }
+
+    private static class DefaultProjectService implements ProjectService, Serializable {
+        DefaultProjectService(BuildService buildService, Object... dependencies) {
+        }
+    }
+
+    private static class GlobalServices {
+        GlobalService createGlobalService() {
+            return new DefaultGlobalService();
+        }
+    }
+
+    private static class BuildServices {
+        BuildService createBuildService(GlobalService globalService) {
+            return new DefaultBuildService(globalService);
+        }
+    }
+
+    private static class ProjectServices {
+        ProjectService createProjectService(BuildService buildService, Service1 s1, Service2 s2, Service3 s3, Service4 s4) {
+            return new DefaultProjectService(buildService, s1, s2, s3, s4);
+        }
+
+        Service1 createService1(GlobalService globalService) {
+            return new Service1();
+        }
+
+        Service2 createService2(Service1 service1) {
+            return new Service2();
+        }
+
+        Service3 createService3(Service2 service2, BuildService buildService) {
+            return new Service3();
+        }
+
+        Service4 createService4(Service3 service3) {
+            return new Service4();
+        }
+
+        Service5 createService5() {
+            return new Service5();
+        }
+
+        Service6 createService6() {
+            return new Service6();
+        }
+
+        Service7 createService7() {
+            return new Service7();
+        }
+
+        Service8 createService8() {
+            return new Service8();
+        }
+    }
+
+    private static class Service1 implements Serializable, Cloneable {
+    }
+
+    private static class Service2 implements Serializable, Cloneable {
+    }
+
+    private static class Service3 implements Serializable, Cloneable {
+    }
+
+    private static class Service4 implements Serializable, Cloneable {
+    }
+
+    private static class Service5 implements Serializable, Cloneable {
+    }
+
+    private static class Service6 implements Serializable, Cloneable {
+    }
+
+    private static class Service7 implements Serializable, Cloneable {
+    }
+
+    private static class Service8 implements Serializable, Cloneable {
+    }
+}
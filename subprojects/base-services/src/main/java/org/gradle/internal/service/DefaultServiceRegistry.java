@@ -40,7 +40,9 @@
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -81,6 +83,8 @@ private enum State {INIT, STARTED, CLOSED}
     private final ServiceProvider parentServices;
     private final String displayName;
     private final ServiceProvider thisAsServiceProvider;
+    // Services already located by class, so that repeated lookups do not need to walk the providers and parent registries again
+    private final ConcurrentMap<Class<?>, Service> servicesByClass = new ConcurrentHashMap<Class<?>, Service>();
 
     private final AtomicReference<State> state = new AtomicReference<State>(State.INIT);
 
@@ -258,6 +262,7 @@ public DefaultServiceRegistry addProvider(Object provider) {
     public void close() {
         noLongerMutable();
         if (state.compareAndSet(State.STARTED, State.CLOSED)) {
+            servicesByClass.clear();
             CompositeStoppable.stoppable(allServices).stop();
         }
     }
@@ -307,7 +312,18 @@ public Object find(Type serviceType) throws ServiceLookupException {
 
     private Service getService(Type serviceType) {
         serviceRequested();
-        return find(serviceType, allServices);
+        if (!(serviceType instanceof Class)) {
+            return find(serviceType, allServices);
+        }
+        Class<?> serviceClass = (Class<?>) serviceType;
+        Service service = servicesByClass.get(serviceClass);
+        if (service == null) {
+            service = find(serviceClass, allServices);
+            if (service != null) {
+                servicesByClass.putIfAbsent(serviceClass, service);
+            }
+        }
+        return service;
     }
 
     @Override
@@ -602,7 +618,7 @@ private enum BindState {UNBOUND, BINDING, BOUND}
         final Type serviceType;
         final Class<?> serviceClass;
 
-        BindState state = BindState.UNBOUND;
+        volatile BindState state = BindState.UNBOUND;
         Class<?> factoryElementType;
 
         SingletonService(DefaultServiceRegistry owner, Type serviceType) {
@@ -1289,6 +1289,58 @@ class DefaultServiceRegistryTest extends Specification {
         e.message == "TestRegistry has been closed."
     }
 
+    def "remembers located service for repeated lookups by class"() {
+        def registry = new DefaultServiceRegistry("TestRegistry")
+        registry.add(BigDecimal, BigDecimal.TEN)
+
+        when:
+        def first = registry.get(Number)
+        def second = registry.get(Number)
+
+        then:
+        first.is(BigDecimal.TEN)
+        second.is(first)
+        registry.servicesByClass.keySet() == [Number] as Set
+    }
+
+    def "remembers service located in parent registry"() {
+        def parent = Mock(ParentServices)
+        def registry = new DefaultServiceRegistry(registry(parent))
+
+        when:
+        def first = registry.get(BigDecimal)
+        def second = registry.get(BigDecimal)
+
+        then:
+        first.is(BigDecimal.TEN)
+        second.is(first)
+
+        and:
+        1 * parent.get(BigDecimal) >> BigDecimal.TEN
+        0 * parent._
+    }
+
+    def "forgets located services when closed"() {
+        def registry = new DefaultServiceRegistry("TestRegistry")
+        registry.add(BigDecimal, BigDecimal.TEN)
+
+        given:
+        registry.get(BigDecimal)
+
+        when:
+        registry.close()
+
+        then:
+        registry.servicesByClass.isEmpty()
+
+        when:
+        registry.get(BigDecimal)
+
+        then:
+        IllegalStateException e = thrown()
+        e.message == "TestRegistry has been closed."
+    }
+
     /*
      * Closing children would imply holding a reference to them. This would
      * create memory leaks.
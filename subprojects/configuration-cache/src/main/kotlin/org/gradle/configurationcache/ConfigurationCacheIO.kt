@@ -43,6 +43,14 @@ import java.io.InputStream
 import java.io.OutputStream
 
 
+/**
+ * The work graph of a large build is encoded into a state file of many megabytes,
+ * so use a larger buffer than the Kryo default to reduce the number of reads and writes.
+ */
+private
+const val stateBufferSize = 64 * 1024
+
+
 @ServiceScope(Scopes.Gradle::class)
 class ConfigurationCacheIO internal constructor(
     private val host: DefaultConfigurationCache.Host,
@@ -106,7 +114,7 @@ class ConfigurationCacheIO internal constructor(
     internal
     fun writerContextFor(outputStream: OutputStream, profile: String): Pair<DefaultWriteContext, Codecs> =
         codecs().let { codecs ->
-            KryoBackedEncoder(outputStream).let { encoder ->
+            KryoBackedEncoder(outputStream, stateBufferSize).let { encoder ->
                 writeContextFor(
                     encoder,
                     if (logger.isDebugEnabled) LoggingTracer(profile, encoder::getWritePosition, logger)
@@ -122,7 +130,7 @@ class ConfigurationCacheIO internal constructor(
         readOperation: suspend DefaultReadContext.(Codecs) -> R
     ): R =
         codecs().let { codecs ->
-            KryoBackedDecoder(inputStream).use { decoder ->
+            KryoBackedDecoder(inputStream, stateBufferSize).use { decoder ->
                 readContextFor(decoder, codecs).run {
                     initClassLoader(javaClass.classLoader)
                     runReadOperation {
@@ -27,6 +27,7 @@ import org.gradle.configurationcache.problems.PropertyKind
 import org.gradle.configurationcache.serialization.IsolateContext
 import org.gradle.configurationcache.serialization.Workarounds
 import org.gradle.configurationcache.serialization.logUnsupported
+import org.gradle.internal.reflect.JavaReflectionUtil
 
 import java.lang.reflect.Field
 import java.lang.reflect.Modifier
@@ -52,7 +53,17 @@ internal
 class RelevantField(
     val field: Field,
     val unsupportedFieldType: KClass<*>?
-)
+) {
+    /**
+     * The type a deserialized value must be an instance of to be assigned to [field],
+     * resolved once per field rather than once per value.
+     */
+    val assignableType: Class<*> =
+        field.type.let { type ->
+            if (type.isPrimitive) JavaReflectionUtil.getWrapperTypeForPrimitiveType(type)
+            else type
+        }
+}
 
 
 internal
@@ -59,12 +59,10 @@ class WorkNodeCodec(
     private
     suspend fun ReadContext.readNodes(): List<Node> {
         val nodeCount = readSmallInt()
+        // a node id is the index of the node in the list
         val nodes = ArrayList<Node>(nodeCount)
-        val nodesById = HashMap<Int, Node>(nodeCount)
-        for (nodeId in 0 until nodeCount) {
-            val node = readNode(nodesById)
-            nodesById[nodeId] = node
-            nodes.add(node)
+        repeat(nodeCount) {
+            nodes.add(readNode(nodes))
         }
         return nodes
     }
@@ -80,9 +78,9 @@ class WorkNodeCodec(
     }
 
     private
-    suspend fun ReadContext.readNode(nodesById: Map<Int, Node>): Node {
+    suspend fun ReadContext.readNode(nodes: List<Node>): Node {
         val node = readNonNull<Node>()
-        readSuccessorReferencesOf(node, nodesById)
+        readSuccessorReferencesOf(node, nodes)
         readExecutionStateOf(node)
         return node
     }
@@ -119,20 +117,20 @@ class WorkNodeCodec(
     }
 
     private
-    fun ReadContext.readSuccessorReferencesOf(node: Node, nodesById: Map<Int, Node>) {
-        readSuccessorReferences(nodesById) {
+    fun ReadContext.readSuccessorReferencesOf(node: Node, nodes: List<Node>) {
+        readSuccessorReferences(nodes) {
             node.addDependencySuccessor(it)
         }
         when (node) {
             is TaskNode -> {
-                readSuccessorReferences(nodesById) {
+                readSuccessorReferences(nodes) {
                     node.addShouldSuccessor(it)
                 }
-                readSuccessorReferences(nodesById) {
+                readSuccessorReferences(nodes) {
                     require(it is TaskNode)
                     node.addMustSuccessor(it)
                 }
-                readSuccessorReferences(nodesById) {
+                readSuccessorReferences(nodes) {
                     require(it is TaskNode)
                     node.addFinalizingSuccessor(it)
                 }
@@ -155,11 +153,11 @@ class WorkNodeCodec(
     }
 
     private
-    fun ReadContext.readSuccessorReferences(nodesById: Map<Int, Node>, onSuccessor: (Node) -> Unit) {
+    fun ReadContext.readSuccessorReferences(nodes: List<Node>, onSuccessor: (Node) -> Unit) {
         while (true) {
             val successorId = readSmallInt()
             if (successorId == -1) break
-            val successor = nodesById.getValue(successorId)
+            val successor = nodes[successorId]
             onSuccessor(successor)
         }
     }
@@ -15,6 +15,8 @@
  */
 package org.gradle.groovy.scripts.internal;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.codehaus.groovy.GroovyBugError;
 import org.codehaus.groovy.ast.ASTNode;
 import org.codehaus.groovy.ast.AnnotatedNode;
@@ -83,6 +85,12 @@ public class GradleResolveVisitor extends ResolveVisitor {
     // note: BigInteger and BigDecimal are also imported by default
     private static final String[] DEFAULT_IMPORTS = {"java.lang.", "java.io.", "java.net.", "java.util.", "groovy.lang.", "groovy.util.", "java.time."};
     private static final String SCRIPTS_PACKAGE = "org.gradle.groovy.scripts";
+    // Classes in java.* packages can only be defined by the JVM's own class loaders, so a name that could not be found
+    // in one of those default imports will not be found by any later script compile either. Every distinct unqualified
+    // type name used by the scripts in the daemon can add an entry per JDK default import, so only the most recently
+    // used names are kept.
+    private static final int MAX_MISSING_JDK_CLASSES = 10000;
+    private static final Cache<String, Boolean> MISSING_JDK_CLASSES = CacheBuilder.newBuilder().maximumSize(MAX_MISSING_JDK_CLASSES).build();
 
     private ClassNode currentClass;
     private final Map<String, List<String>> simpleNameToFQN;
@@ -571,11 +579,19 @@ private boolean resolveFromDefaultImports(ClassNode type, boolean testDefaultImp
                 // packagePrefix is really a class is handled elsewhere.
                 // WARNING: This code does not expect a class that has a static
                 //          inner class in DEFAULT_IMPORTS
+                boolean jdkPackage = packagePrefix.startsWith("java.");
+                String className = packagePrefix + name;
+                if (jdkPackage && MISSING_JDK_CLASSES.getIfPresent(className) != null) {
+                    continue;
+                }
                 ConstructedClassWithPackage tmp = new ConstructedClassWithPackage(packagePrefix, name);
                 if (resolve(tmp, false, false, false)) {
                     type.setRedirect(tmp.redirect());
                     return true;
                 }
+                if (jdkPackage) {
+                    MISSING_JDK_CLASSES.put(className, Boolean.TRUE);
+                }
             }
             if (name.equals("Inject")) {
                 type.setRedirect(ClassHelper.makeCached(Inject.class));
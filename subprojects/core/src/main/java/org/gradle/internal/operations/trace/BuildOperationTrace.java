@@ -64,7 +64,8 @@
  *
  * Three files are created:
  *
- * - «path-base»-log.txt: a chronological log of events, each line is a JSON object
+ * - «path-base»-log.txt: a chronological log of events, each line is a JSON object.
+ *   The log is flushed after every event, so that it is complete up to the last event when a build hangs or is killed.
  * - «path-base»-tree.json: a JSON tree of the event structure
  * - «path-base»-tree.txt: A simplified tree representation showing basic information
  *
@@ -159,10 +160,11 @@ public void stop() {
     }
 
     private void write(SerializedOperation operation) {
-        String json = JsonOutput.toJson(operation.toMap());
+        // Serialize outside of the lock, so that only the write to the log is serialized across threads
+        byte[] json = JsonOutput.toJson(operation.toMap()).getBytes(StandardCharsets.UTF_8);
         try {
             synchronized (logOutputStream) {
-                logOutputStream.write(json.getBytes(StandardCharsets.UTF_8));
+                logOutputStream.write(json);
                 logOutputStream.write(NEWLINE);
                 logOutputStream.flush();
             }
@@ -490,6 +490,38 @@ Outer.Inner.Deeper weMustGoDeeper = null
         ]
     }
 
+    def "does not look up missing JDK default import classes again in later compiles"() {
+        def loader = new RecordingClassLoader(classLoader)
+        def text = """
+ObjectGraphBuilder builder = null
+TreeMap map = new TreeMap()
+System.setProperty('$TEST_EXPECTED_SYSTEM_PROP_KEY', map.getClass().name)
+"""
+        def scriptSource = scriptSource(text)
+        def sourceHashCode = hashFor(text)
+
+        when:
+        scriptCompilationHandler.compileToDir(scriptSource, loader, scriptCacheDir, metadataCacheDir, null, expectedScriptClass, verifier)
+
+        then:
+        loader.requested.containsAll(["java.lang.ObjectGraphBuilder", "java.util.ObjectGraphBuilder"])
+
+        when:
+        loader.requested.clear()
+        scriptCompilationHandler.compileToDir(scriptSource, loader, scriptCacheDir, metadataCacheDir, null, expectedScriptClass, verifier)
+
+        then:
+        !loader.requested.any { it.startsWith("java.") && it.endsWith(".ObjectGraphBuilder") }
+        checkScriptClassesInCache()
+
+        when:
+        def compiledScript = scriptCompilationHandler.loadFromDir(scriptSource, sourceHashCode, targetScope, scriptClassPath, metadataCacheDir, null, expectedScriptClass)
+        JavaReflectionUtil.newInstance(compiledScript.loadClass()).run()
+
+        then:
+        System.getProperty(TEST_EXPECTED_SYSTEM_PROP_KEY) == "java.util.TreeMap"
+    }
+
     private void checkScriptClassesInCache(boolean empty = false) {
         assertTrue(scriptCacheDir.isDirectory())
         assertTrue(cachedFile.isFile())
@@ -528,6 +560,28 @@ Outer.Inner.Deeper weMustGoDeeper = null
     abstract static class TestBaseScript extends Script {
     }
 
+    private static class RecordingClassLoader extends ClassLoader {
+        final Set<String> requested = new HashSet<String>()
+
+        RecordingClassLoader(ClassLoader parent) {
+            super(parent)
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            requested.add(name)
+            return super.loadClass(name, resolve)
+        }
+
+        @Override
+        URL getResource(String name) {
+            if (name.endsWith(".class")) {
+                requested.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'))
+            }
+            return super.getResource(name)
+        }
+    }
+
     private static HashCode hashFor(String scriptText) {
         Hashing.hashString(scriptText)
     }
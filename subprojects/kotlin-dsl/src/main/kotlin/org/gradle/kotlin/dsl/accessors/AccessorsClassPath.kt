@@ -290,8 +290,16 @@ class TypeAccessibilityProvider(classPath: ClassPath) : Closeable {
     private
     val typeAccessibilityInfoPerClass = mutableMapOf<String, TypeAccessibilityInfo>()
 
+    private
+    val typeAccessibilityPerType = mutableMapOf<SchemaType, TypeAccessibility>()
+
     fun accessibilityForType(type: SchemaType): TypeAccessibility =
-        // TODO:accessors cache per SchemaType
+        typeAccessibilityPerType.computeIfAbsent(type) {
+            loadAccessibilityFor(it)
+        }
+
+    private
+    fun loadAccessibilityFor(type: SchemaType): TypeAccessibility =
         inaccessibilityReasonsFor(classNamesFromTypeString(type)).let { inaccessibilityReasons ->
             if (inaccessibilityReasons.isNotEmpty()) inaccessible(type, inaccessibilityReasons)
             else accessible(type)
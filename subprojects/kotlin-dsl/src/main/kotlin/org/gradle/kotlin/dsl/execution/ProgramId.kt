@@ -46,12 +46,21 @@ class ProgramId(
             && classPathHash == that.classPathHash
     }
 
-    override fun hashCode(): Int {
+    override fun hashCode(): Int = hash
+
+    /**
+     * Computed once, while [parentClassLoader] is still reachable, so the hash code
+     * of a program id used as a cache key is cheap and does not change when the
+     * parent loader is later collected.
+     */
+    private
+    val hash: Int = computeHashCode(parentClassLoader)
+
+    private
+    fun computeHashCode(parentClassLoader: ClassLoader): Int {
         var result = templateId.hashCode()
         result = 31 * result + sourceHash.hashCode()
-        parentClassLoader.get()?.let { loader ->
-            result = 31 * result + loader.hashCode()
-        }
+        result = 31 * result + parentClassLoader.hashCode()
         accessorsClassPathHash?.let { classPathHash ->
             result = 31 * result + classPathHash.hashCode()
         }
@@ -17,11 +17,14 @@
 
 import org.gradle.api.internal.specs.ExplainingSpec;
 
+import java.io.File;
+
 import static org.gradle.internal.FileUtils.canonicalize;
 
 public class DaemonCompatibilitySpec implements ExplainingSpec<DaemonContext> {
 
     private final DaemonContext desiredContext;
+    private File canonicalDesiredJavaHome;
 
     public DaemonCompatibilitySpec(DaemonContext desiredContext) {
         this.desiredContext = desiredContext;
@@ -55,7 +58,16 @@ private boolean daemonOptsMatch(DaemonContext potentialContext) {
     }
 
     private boolean javaHomeMatches(DaemonContext potentialContext) {
-        return canonicalize(potentialContext.getJavaHome()).equals(canonicalize(desiredContext.getJavaHome()));
+        return canonicalize(potentialContext.getJavaHome()).equals(getCanonicalDesiredJavaHome());
+    }
+
+    private File getCanonicalDesiredJavaHome() {
+        // The same spec is matched against every daemon in the registry, and periodically by the expiration strategy,
+        // so only resolve the desired Java home once
+        if (canonicalDesiredJavaHome == null) {
+            canonicalDesiredJavaHome = canonicalize(desiredContext.getJavaHome());
+        }
+        return canonicalDesiredJavaHome;
     }
 
     private boolean priorityMatches(DaemonContext context) {
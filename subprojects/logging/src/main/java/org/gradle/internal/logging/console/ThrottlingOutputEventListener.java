@@ -28,6 +28,7 @@
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Queue output events to be forwarded and schedule flush when time passed or if end of build is signalled.
@@ -39,8 +40,10 @@ public class ThrottlingOutputEventListener implements OutputEventListener {
     private final Clock clock;
     private final int throttleMs;
     private final Object lock = new Object();
+    // Held while rendering, so that batches are forwarded in the order they were taken from the queue
+    private final ReentrantLock renderLock = new ReentrantLock();
 
-    private final List<OutputEvent> queue = new ArrayList<OutputEvent>();
+    private List<OutputEvent> queue = new ArrayList<OutputEvent>();
 
     public ThrottlingOutputEventListener(OutputEventListener listener, Clock clock) {
         this(listener, Integer.getInteger("org.gradle.internal.console.throttle", 100), Executors.newSingleThreadScheduledExecutor(), clock);
@@ -65,34 +68,30 @@ public void run() {
 
     @Override
     public void onOutput(OutputEvent newEvent) {
+        List<OutputEvent> events;
         synchronized (lock) {
             queue.add(newEvent);
 
-            if (newEvent instanceof UpdateNowEvent) {
-                // Flush any buffered events and update the clock
-                renderNow();
-                return;
-            }
-
-            if (newEvent instanceof FlushOutputEvent) {
-                renderNow();
-                return;
-            }
-
             if (newEvent instanceof EndOutputEvent) {
                 // Flush and clean up
-                renderNow();
                 executor.shutdown();
+            } else if (!(newEvent instanceof UpdateNowEvent) && !(newEvent instanceof FlushOutputEvent)) {
+                // Wait for the next update event
+                return;
             }
 
-            // Else, wait for the next update event
+            // Flush any buffered events. Render outside of the queue lock, so that threads producing output are not
+            // blocked while the console is being redrawn
+            events = queue;
+            queue = new ArrayList<OutputEvent>();
+            renderLock.lock();
         }
-    }
-
-    private void renderNow() {
-        for (OutputEvent event : queue) {
-            listener.onOutput(event);
+        try {
+            for (OutputEvent event : events) {
+                listener.onOutput(event);
+            }
+        } finally {
+            renderLock.unlock();
         }
-        queue.clear();
     }
 }
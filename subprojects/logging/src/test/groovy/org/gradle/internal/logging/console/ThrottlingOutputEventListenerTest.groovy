@@ -24,6 +24,9 @@ import org.gradle.internal.time.MockClock
 import org.gradle.util.MockExecutor
 import spock.lang.Subject
 
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
 class ThrottlingOutputEventListenerTest extends OutputSpecification {
     def listener = Mock(OutputEventListener)
     def clock = new MockClock()
@@ -139,4 +142,41 @@ class ThrottlingOutputEventListenerTest extends OutputSpecification {
         then:
         executor.isShutdown()
     }
+
+    def "queues events while a batch is being rendered"() {
+        def event1 = event('1')
+        def event2 = event('2')
+        def rendering = new CountDownLatch(1)
+        def finishRendering = new CountDownLatch(1)
+        def rendered = []
+        def blockingListener = { e ->
+            rendered << e
+            if (e == event1) {
+                rendering.countDown()
+                finishRendering.await()
+            }
+        } as OutputEventListener
+        def throttling = new ThrottlingOutputEventListener(blockingListener, 100, executor, clock)
+
+        when:
+        throttling.onOutput(event1)
+        def flusher = Thread.start { throttling.onOutput(new FlushOutputEvent()) }
+        rendering.await(10, TimeUnit.SECONDS)
+        throttling.onOutput(event2)
+
+        then:
+        rendered == [event1]
+
+        when:
+        finishRendering.countDown()
+        flusher.join()
+        throttling.onOutput(new FlushOutputEvent())
+
+        then:
+        rendered.size() == 4
+        rendered[0] == event1
+        rendered[1] instanceof FlushOutputEvent
+        rendered[2] == event2
+        rendered[3] instanceof FlushOutputEvent
+    }
 }
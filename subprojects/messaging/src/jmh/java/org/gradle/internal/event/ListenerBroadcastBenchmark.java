@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of notifying listeners through a {@link ListenerBroadcast}.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ListenerBroadcastBenchmark {
+    @Param({"1", "4"})
+    int listeners;
+
+    private TestListener source;
+    private final Object event = new Object();
+    private int notifications;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ListenerBroadcast<TestListener> broadcast = new ListenerBroadcast<TestListener>(TestListener.class);
+        for (int i = 0; i < listeners; i++) {
+            broadcast.add(new TestListener() {
+                @Override
+                public void beforeEvent(Object event) {
+                    notifications++;
+                }
+
+                @Override
+                public void afterEvent(Object event, Object result) {
+                    notifications++;
+                }
+            });
+        }
+        source = broadcast.getSource();
+    }
+
+    @Benchmark
+    public int notifyListeners() {
+        source.beforeEvent(event);
+        source.afterEvent(event, event);
+        return notifications;
+    }
+
+    public interface TestListener {
+        void beforeEvent(Object event);
+
+        void afterEvent(Object event, Object result);
+    }
+}
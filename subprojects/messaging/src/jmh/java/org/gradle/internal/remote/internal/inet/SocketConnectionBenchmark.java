@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.remote.internal.inet;
+
+import org.gradle.internal.remote.internal.KryoBackedMessageSerializer;
+import org.gradle.internal.serialize.BaseSerializerFactory;
+import org.gradle.internal.serialize.Serializers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Measures how many messages per second can be pushed through a loopback {@link SocketConnection}, both for
+ * many small messages (as sent by test workers and the daemon client) and for large payloads.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class SocketConnectionBenchmark {
+    private static final int MESSAGES = 1000;
+    private static final byte[] ACK = new byte[0];
+
+    @Param({"64", "65536"})
+    int messageSize;
+
+    private byte[] message;
+    private SocketConnection<byte[]> sender;
+    private SocketConnection<byte[]> receiver;
+    private Thread receiverThread;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        message = new byte[messageSize];
+        ServerSocketChannel server = ServerSocketChannel.open();
+        try {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            SocketChannel client = SocketChannel.open(server.getLocalAddress());
+            SocketChannel accepted = server.accept();
+            sender = connection(client);
+            receiver = connection(accepted);
+        } finally {
+            server.close();
+        }
+
+        // Acknowledges each batch of messages, so that the benchmark measures delivery rather than buffering
+        receiverThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                int received = 0;
+                while (receiver.receive() != null) {
+                    if (++received == MESSAGES) {
+                        received = 0;
+                        receiver.dispatch(ACK);
+                        receiver.flush();
+                    }
+                }
+            }
+        }, "socket connection benchmark receiver");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        sender.stop();
+        receiverThread.join();
+        receiver.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public byte[] sendMessages() {
+        for (int i = 0; i < MESSAGES; i++) {
+            sender.dispatch(message);
+        }
+        sender.flush();
+        return sender.receive();
+    }
+
+    private static SocketConnection<byte[]> connection(SocketChannel channel) {
+        return new SocketConnection<byte[]>(channel, new KryoBackedMessageSerializer(), Serializers.stateful(BaseSerializerFactory.BYTE_ARRAY_SERIALIZER));
+    }
+}
@@ -29,10 +29,15 @@ public ReflectionDispatch(Object target) {
     }
 
     @Override
+    @SuppressWarnings("deprecation") // isAccessible() is deprecated from Java 9, its replacement canAccess() is not available on Java 8
     public void dispatch(MethodInvocation message) {
         try {
             Method method = message.getMethod();
-            method.setAccessible(true);
+            // The same Method instance is passed for every invocation of a listener method, so only make it accessible once.
+            // Calling setAccessible() performs access checks each time, which are expensive on recent JVMs
+            if (!method.isAccessible()) {
+                method.setAccessible(true);
+            }
             method.invoke(target, message.getArguments());
         } catch (InvocationTargetException e) {
             throw UncheckedException.throwAsUncheckedException(e.getCause());
@@ -41,6 +41,7 @@
 
 public class SocketConnection<T> implements RemoteConnection<T> {
     private static final Logger LOGGER = LoggerFactory.getLogger(SocketConnection.class);
+    private static final int BUFFER_SIZE = 32 * 1024;
     private final SocketChannel socket;
     private final SocketInetAddress localAddress;
     private final SocketInetAddress remoteAddress;
@@ -56,6 +57,9 @@ public SocketConnection(SocketChannel socket, MessageSerializer streamSerializer
             // NOTE: we use non-blocking IO as there is no reliable way when using blocking IO to shutdown reads while
             // keeping writes active. For example, Socket.shutdownInput() does not work on Windows.
             socket.configureBlocking(false);
+            // Messages are buffered and explicitly flushed, so there is nothing to gain from Nagle's algorithm. It only
+            // delays small request and response messages while waiting for the peer to acknowledge earlier ones
+            socket.socket().setTcpNoDelay(true);
             outstr = new SocketOutputStream(socket);
             instr = new SocketInputStream(socket);
         } catch (IOException e) {
@@ -161,7 +165,7 @@ public SocketInputStream(SocketChannel socket) throws IOException {
             this.socket = socket;
             selector = Selector.open();
             socket.register(selector, SelectionKey.OP_READ);
-            buffer = ByteBuffer.allocateDirect(4096);
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
             BufferCaster.cast(buffer).limit(0);
         }
 
@@ -181,30 +185,28 @@ public int read(byte[] dest, int offset, int max) throws IOException {
             }
 
             if (buffer.remaining() == 0) {
-                try {
-                    selector.select();
-                } catch (ClosedSelectorException e) {
-                    return -1;
-                }
-                if (!selector.isOpen()) {
-                    return -1;
-                }
-
+                // Try to read whatever is already available before blocking on the selector, as the peer is often
+                // sending faster than this side is consuming
                 BufferCaster.cast(buffer).clear();
-                int nread;
-                try {
-                    nread = socket.read(buffer);
-                } catch (IOException e) {
-                    if (isEndOfStream(e)) {
-                        BufferCaster.cast(buffer).position(0);
-                        BufferCaster.cast(buffer).limit(0);
-                        return -1;
+                int nread = readFromChannel();
+                while (nread == 0) {
+                    try {
+                        selector.select();
+                    } catch (ClosedSelectorException e) {
+                        nread = -1;
+                        break;
+                    }
+                    if (!selector.isOpen()) {
+                        nread = -1;
+                        break;
                     }
-                    throw e;
+                    nread = readFromChannel();
                 }
                 BufferCaster.cast(buffer).flip();
 
                 if (nread < 0) {
+                    BufferCaster.cast(buffer).position(0);
+                    BufferCaster.cast(buffer).limit(0);
                     return -1;
                 }
             }
@@ -214,6 +216,17 @@ public int read(byte[] dest, int offset, int max) throws IOException {
             return count;
         }
 
+        private int readFromChannel() throws IOException {
+            try {
+                return socket.read(buffer);
+            } catch (IOException e) {
+                if (isEndOfStream(e)) {
+                    return -1;
+                }
+                throw e;
+            }
+        }
+
         @Override
         public void close() throws IOException {
             selector.close();
@@ -221,7 +234,6 @@ public void close() throws IOException {
     }
 
     private static class SocketOutputStream extends OutputStream {
-        private static final int RETRIES_WHEN_BUFFER_FULL = 2;
         private Selector selector;
         private final SocketChannel socket;
         private final ByteBuffer buffer;
@@ -229,7 +241,7 @@ private static class SocketOutputStream extends OutputStream {
 
         public SocketOutputStream(SocketChannel socket) throws IOException {
             this.socket = socket;
-            buffer = ByteBuffer.allocateDirect(32 * 1024);
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
         }
 
         @Override
@@ -264,29 +276,16 @@ public void flush() throws IOException {
 
         private void writeBufferToChannel() throws IOException {
             BufferCaster.cast(buffer).flip();
-            int count = writeWithNonBlockingRetry();
-            if (count == 0) {
-                // buffer was still full after non-blocking retries, now block
+            int count = socket.write(buffer);
+            if (count < 0) {
+                throw new EOFException();
+            } else if (count == 0) {
+                // the socket send buffer is full, so block until the peer has consumed some of it instead of spinning
                 waitForWriteBufferToDrain();
             }
             buffer.compact();
         }
 
-        private int writeWithNonBlockingRetry() throws IOException {
-            int count = 0;
-            int retryCount = 0;
-            while (count == 0 && retryCount++ < RETRIES_WHEN_BUFFER_FULL) {
-                count = socket.write(buffer);
-                if (count < 0) {
-                    throw new EOFException();
-                } else if (count == 0) {
-                    // buffer was full, just call Thread.yield
-                    Thread.yield();
-                }
-            }
-            return count;
-        }
-
         private void waitForWriteBufferToDrain() throws IOException {
             if (selector == null) {
                 selector = Selector.open();
@@ -277,8 +277,9 @@ private void inspectType(Class<?> type, List<ClassValidator> validators, List<Cl
         }
 
         for (Method method : classDetails.getAllMethods()) {
+            PropertyAccessorType accessorType = PropertyAccessorType.of(method);
             for (ClassValidator validator : validators) {
-                validator.validateMethod(method, PropertyAccessorType.of(method));
+                validator.validateMethod(method, accessorType);
             }
         }
 
@@ -15,6 +15,7 @@
  */
 package org.gradle.internal.nativeintegration.processenvironment;
 
+import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.gradle.internal.nativeintegration.EnvironmentModificationResult;
@@ -32,13 +33,18 @@ public abstract class AbstractProcessEnvironment implements ProcessEnvironment {
 
     @Override
     public EnvironmentModificationResult maybeSetEnvironment(Map<String, String> source) {
+        Map<String, String> currentEnvironment = System.getenv();
         // need to take copy to prevent ConcurrentModificationException
-        List<String> keysToRemove = Lists.newArrayList(Sets.difference(System.getenv().keySet(), source.keySet()));
+        List<String> keysToRemove = Lists.newArrayList(Sets.difference(currentEnvironment.keySet(), source.keySet()));
         for (String key : keysToRemove) {
             removeEnvironmentVariable(key);
         }
+        // The daemon applies the client's environment for every build, and restores its own afterwards. Usually only a few
+        // variables differ, so only update those rather than changing every variable natively and reflectively
         for (Map.Entry<String, String> entry : source.entrySet()) {
-           setEnvironmentVariable(entry.getKey(), entry.getValue());
+            if (!Objects.equal(entry.getValue(), currentEnvironment.get(entry.getKey()))) {
+                setEnvironmentVariable(entry.getKey(), entry.getValue());
+            }
         }
         return EnvironmentModificationResult.SUCCESS;
     }
@@ -47,6 +47,33 @@ class ProcessEnvironmentTest extends Specification {
         System.getenv("TEST_ENV_2") == null
     }
 
+    def "can replace the environment of current process"() {
+        def originalEnv = new HashMap<String, String>(System.getenv())
+        def newEnv = new HashMap<String, String>(originalEnv)
+        newEnv.put("TEST_ENV_1", "value")
+        newEnv.put("TEST_ENV_2", "value")
+
+        when:
+        env.maybeSetEnvironment(newEnv)
+
+        then:
+        System.getenv() == newEnv
+
+        when:
+        newEnv.put("TEST_ENV_1", "changed")
+        newEnv.remove("TEST_ENV_2")
+        env.maybeSetEnvironment(newEnv)
+
+        then:
+        System.getenv() == newEnv
+
+        when:
+        env.maybeSetEnvironment(originalEnv)
+
+        then:
+        System.getenv() == originalEnv
+    }
+
     @Requires(TestPrecondition.WORKING_DIR)
     def "can get working directory of current process"() {
         expect:
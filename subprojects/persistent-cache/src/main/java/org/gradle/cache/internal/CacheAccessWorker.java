@@ -25,7 +25,9 @@
 import org.gradle.internal.time.CountdownTimer;
 import org.gradle.internal.time.Time;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -36,7 +38,11 @@
 import java.util.concurrent.TimeUnit;
 
 class CacheAccessWorker implements Runnable, Stoppable, AsyncCacheAccess {
+    private static final int MAX_BATCH_SIZE = 256;
+
     private final BlockingQueue<Runnable> workQueue;
+    // Operations taken from the work queue but not yet run, only accessed by the worker thread
+    private final Deque<Runnable> batch = new ArrayDeque<Runnable>();
     private final String displayName;
     private final CacheAccess cacheAccess;
     private final long batchWindowMillis;
@@ -54,7 +60,7 @@ class CacheAccessWorker implements Runnable, Stoppable, AsyncCacheAccess {
         this.maximumLockingTimeMillis = 5000;
         HeapProportionalCacheSizer heapProportionalCacheSizer = new HeapProportionalCacheSizer();
         int queueCapacity = Math.min(4000, heapProportionalCacheSizer.scaleCacheSize(40000));
-        workQueue = new ArrayBlockingQueue<Runnable>(queueCapacity, true);
+        workQueue = new ArrayBlockingQueue<Runnable>(queueCapacity);
     }
 
     @Override
@@ -152,7 +158,8 @@ public void run() {
             failureHandler.onFailure("Failed to execute cache operations on " + displayName, t);
         } finally {
             // Notify any waiting flush threads that the worker is done, possibly with a failure
-            List<Runnable> runnables = new ArrayList<Runnable>();
+            List<Runnable> runnables = new ArrayList<Runnable>(batch);
+            batch.clear();
             workQueue.drainTo(runnables);
             for (Runnable runnable : runnables) {
                 if (runnable instanceof FlushOperationsCommand) {
@@ -166,7 +173,20 @@ public void run() {
     }
 
     private Runnable takeFromQueue() throws InterruptedException {
-        return workQueue.take();
+        Runnable next = batch.poll();
+        return next != null ? next : workQueue.take();
+    }
+
+    /**
+     * Takes the next operation, draining whatever is already queued in one go so that a burst of
+     * operations contends for the queue lock once rather than once per operation.
+     */
+    private Runnable pollFromQueue() throws InterruptedException {
+        if (batch.isEmpty()) {
+            workQueue.drainTo(batch, MAX_BATCH_SIZE);
+        }
+        Runnable next = batch.poll();
+        return next != null ? next : workQueue.poll(batchWindowMillis, TimeUnit.MILLISECONDS);
     }
 
     private void flushOperations(final Runnable updateOperation) {
@@ -181,7 +201,7 @@ public void run() {
                     }
                     Runnable otherOperation;
                     try {
-                        while ((otherOperation = workQueue.poll(batchWindowMillis, TimeUnit.MILLISECONDS)) != null) {
+                        while ((otherOperation = pollFromQueue()) != null) {
                             failureHandler.onExecute(otherOperation);
                             final Class<? extends Runnable> runnableClass = otherOperation.getClass();
                             if (runnableClass == FlushOperationsCommand.class) {
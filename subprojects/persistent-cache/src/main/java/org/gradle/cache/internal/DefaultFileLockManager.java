@@ -405,14 +405,25 @@ static class AwaitableFileLockReleasedSignal implements FileLockReleasedSignal,
         private final Lock lock = new ReentrantLock();
         private final Condition condition = lock.newCondition();
         private int waiting;
+        // Remembers a trigger that arrives while the requester is not waiting, for example while it is retrying the lock,
+        // so that it retries immediately instead of sleeping through its next back-off period
+        private boolean triggered;
 
         public boolean await(long millis) throws InterruptedException {
             lock.lock();
             try {
-                waiting++;
-                return condition.await(millis, MILLISECONDS);
+                if (!triggered) {
+                    waiting++;
+                    try {
+                        condition.await(millis, MILLISECONDS);
+                    } finally {
+                        waiting--;
+                    }
+                }
+                boolean signaled = triggered;
+                triggered = false;
+                return signaled;
             } finally {
-                waiting--;
                 lock.unlock();
             }
         }
@@ -421,6 +432,7 @@ public boolean await(long millis) throws InterruptedException {
         public void trigger() {
             lock.lock();
             try {
+                triggered = true;
                 if (waiting > 0) {
                     condition.signalAll();
                 }
@@ -51,14 +51,17 @@ public String toString() {
 
     @Override
     public V get(final K key) {
-        Object value;
-        try {
-            value = inMemoryCache.get(key, () -> {
-                Object out = delegate.get(key);
-                return out == null ? NULL : out;
-            });
-        } catch (UncheckedExecutionException | ExecutionException e) {
-            throw UncheckedException.throwAsUncheckedException(e.getCause());
+        // Most lookups hit the in-memory cache, so check it before creating a loader
+        Object value = inMemoryCache.getIfPresent(key);
+        if (value == null) {
+            try {
+                value = inMemoryCache.get(key, () -> {
+                    Object out = delegate.get(key);
+                    return out == null ? NULL : out;
+                });
+            } catch (UncheckedExecutionException | ExecutionException e) {
+                throw UncheckedException.throwAsUncheckedException(e.getCause());
+            }
         }
         if (value == NULL) {
             return null;
@@ -17,6 +17,7 @@
 package org.gradle.cache.internal
 
 import org.gradle.cache.CacheAccess
+import org.gradle.test.fixtures.ConcurrentTestUtil
 import org.gradle.test.fixtures.concurrent.ConcurrentSpec
 
 class CacheAccessWorkerTest extends ConcurrentSpec {
@@ -104,6 +105,115 @@ class CacheAccessWorkerTest extends ConcurrentSpec {
         cacheAccessWorker?.stop()
     }
 
+    def "runs operations queued behind a flush in order in a later cache access"() {
+        given:
+        def cacheAccess = Mock(CacheAccess)
+        def worker = new CacheAccessWorker("<cache>", cacheAccess)
+        def events = Collections.synchronizedList([])
+        worker.enqueue { events << "op1" }
+
+        when:
+        async {
+            start {
+                worker.flush()
+                instant.flushed
+            }
+            ConcurrentTestUtil.poll { assert worker.workQueue.size() == 2 }
+            worker.enqueue { events << "op2" }
+            worker.enqueue { events << "op3" }
+            start(worker)
+            thread.blockUntil.flushed
+            worker.stop()
+        }
+
+        then:
+        2 * cacheAccess.useCache(_) >> { Runnable action ->
+            events << "lock"
+            action.run()
+            events << "unlock"
+        }
+        events == ["lock", "op1", "unlock", "lock", "op2", "op3", "unlock"]
+    }
+
+    def "flush rethrows failure of an operation queued before it and operations queued behind it still run"() {
+        given:
+        def failure = new RuntimeException()
+        def cacheAccess = Mock(CacheAccess)
+        def worker = new CacheAccessWorker("<cache>", cacheAccess)
+        def events = Collections.synchronizedList([])
+        def flushFailure = null
+        worker.enqueue {
+            events << "op1"
+            throw failure
+        }
+
+        when:
+        async {
+            start {
+                try {
+                    worker.flush()
+                } catch (RuntimeException e) {
+                    flushFailure = e
+                }
+                instant.flushed
+            }
+            ConcurrentTestUtil.poll { assert worker.workQueue.size() == 2 }
+            worker.enqueue { events << "op2" }
+            worker.enqueue { events << "op3" }
+            start(worker)
+            thread.blockUntil.flushed
+            worker.stop()
+        }
+
+        then:
+        2 * cacheAccess.useCache(_) >> { Runnable action ->
+            events << "lock"
+            action.run()
+            events << "unlock"
+        }
+        flushFailure == failure
+        events == ["lock", "op1", "unlock", "lock", "op2", "op3", "unlock"]
+    }
+
+    def "completes flush and discards operations queued behind it when the cache cannot be accessed"() {
+        given:
+        def failure = new RuntimeException()
+        def cacheAccess = Mock(CacheAccess)
+        def worker = new CacheAccessWorker("<cache>", cacheAccess)
+        def events = Collections.synchronizedList([])
+        def failures = Collections.synchronizedList([])
+        worker.enqueue { events << "op1" }
+
+        when:
+        async {
+            start {
+                try {
+                    worker.flush()
+                } catch (RuntimeException e) {
+                    failures << e
+                }
+                instant.flushed
+            }
+            ConcurrentTestUtil.poll { assert worker.workQueue.size() == 2 }
+            worker.enqueue { events << "op2" }
+            start(worker)
+            thread.blockUntil.flushed
+            try {
+                worker.stop()
+            } catch (RuntimeException e) {
+                failures << e
+            }
+        }
+
+        then:
+        1 * cacheAccess.useCache(_) >> { Runnable action ->
+            action.run()
+            throw failure
+        }
+        events == ["op1"]
+        failures == [failure]
+    }
+
     def "stop waits for queued actions to complete"() {
         given:
         def counter = 0
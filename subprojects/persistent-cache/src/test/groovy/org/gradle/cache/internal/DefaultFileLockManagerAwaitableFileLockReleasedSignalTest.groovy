@@ -71,4 +71,15 @@ class DefaultFileLockManagerAwaitableFileLockReleasedSignalTest extends Concurre
         then:
         notThrown(Exception)
     }
+
+    def "does not lose a signal that is triggered while nobody is waiting"() {
+        when:
+        signal.trigger()
+
+        then:
+        signal.await(10000)
+
+        and:
+        !signal.await(0)
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.tasks.testing.worker;
+
+import org.gradle.api.internal.tasks.testing.DefaultTestOutputEvent;
+import org.gradle.api.tasks.testing.TestOutputEvent;
+import org.gradle.internal.id.CompositeIdGenerator;
+import org.gradle.internal.serialize.Serializer;
+import org.gradle.internal.serialize.kryo.KryoBackedDecoder;
+import org.gradle.internal.serialize.kryo.KryoBackedEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Measures how many test output events per second a single test worker connection can encode and decode.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class TestEventSerializerBenchmark {
+    private static final int EVENTS = 10000;
+
+    @Param({"16", "256"})
+    int messageLength;
+
+    private final Serializer<Object> serializer = TestEventSerializer.create().build(Object.class);
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Object[] events;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        StringBuilder message = new StringBuilder();
+        while (message.length() < messageLength - 1) {
+            message.append("output ");
+        }
+        message.setLength(messageLength - 1);
+        message.append('\n');
+
+        events = new Object[EVENTS * 2];
+        for (int i = 0; i < EVENTS; i++) {
+            events[2 * i] = new CompositeIdGenerator.CompositeId(3L, (long) (i / 10));
+            events[2 * i + 1] = new DefaultTestOutputEvent(i % 5 == 0 ? TestOutputEvent.Destination.StdErr : TestOutputEvent.Destination.StdOut, message.toString());
+        }
+        encoded = encode();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void encodeOutputEvents(Blackhole bh) throws Exception {
+        bh.consume(encode());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public void decodeOutputEvents(Blackhole bh) throws Exception {
+        KryoBackedDecoder decoder = new KryoBackedDecoder(new ByteArrayInputStream(encoded));
+        for (int i = 0; i < events.length; i++) {
+            bh.consume(serializer.read(decoder));
+        }
+    }
+
+    private byte[] encode() throws Exception {
+        output.reset();
+        KryoBackedEncoder encoder = new KryoBackedEncoder(output);
+        for (Object event : events) {
+            serializer.write(encoder, event);
+        }
+        encoder.flush();
+        return output.toByteArray();
+    }
+}
@@ -18,10 +18,10 @@
 
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
+import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import org.gradle.api.UncheckedIOException;
 import org.gradle.api.tasks.testing.TestOutputEvent;
-import org.gradle.internal.UncheckedException;
 import org.gradle.internal.io.RandomAccessFileInputStream;
 import org.gradle.internal.serialize.kryo.KryoBackedDecoder;
 import org.gradle.internal.serialize.kryo.KryoBackedEncoder;
@@ -34,7 +34,6 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -43,10 +42,11 @@ public class TestOutputStore {
 
     private final File resultsDir;
     private final Charset messageStorageCharset;
+    private Index sharedIndex;
 
     public TestOutputStore(File resultsDir) {
         this.resultsDir = resultsDir;
-        this.messageStorageCharset = Charset.forName("UTF-8");
+        this.messageStorageCharset = Charsets.UTF_8;
     }
 
     File getOutputsFile() {
@@ -82,6 +82,11 @@ public class Writer implements Closeable {
 
         private final Map<Long, Map<Long, TestCaseRegion>> index = new LinkedHashMap<Long, Map<Long, TestCaseRegion>>();
 
+        // Output usually arrives in runs for the same test, so remember the region of the most recent event
+        private long lastClassId;
+        private long lastTestId;
+        private TestCaseRegion lastRegion;
+
         public Writer() {
             try {
                 output = new KryoBackedEncoder(new FileOutputStream(getOutputsFile()));
@@ -94,6 +99,7 @@ public Writer() {
         public void close() {
             output.close();
             writeIndex();
+            discardIndex();
         }
 
         public void onOutput(long classId, TestOutputEvent outputEvent) {
@@ -108,29 +114,20 @@ public void onOutput(long classId, long testId, TestOutputEvent outputEvent) {
             output.writeSmallLong(classId);
             output.writeSmallLong(testId);
 
-            byte[] bytes;
-            try {
-                bytes = outputEvent.getMessage().getBytes(messageStorageCharset.name());
-            } catch (UnsupportedEncodingException e) {
-                throw UncheckedException.throwAsUncheckedException(e);
-            }
+            byte[] bytes = outputEvent.getMessage().getBytes(messageStorageCharset);
             output.writeSmallInt(bytes.length);
             output.writeBytes(bytes, 0, bytes.length);
         }
 
         private void mark(long classId, long testId, boolean isStdout) {
-            if (!index.containsKey(classId)) {
-                index.put(classId, new LinkedHashMap<Long, TestCaseRegion>());
-            }
-
-            Map<Long, TestCaseRegion> testCaseRegions = index.get(classId);
-            if (!testCaseRegions.containsKey(testId)) {
-                TestCaseRegion region = new TestCaseRegion();
-                testCaseRegions.put(testId, region);
+            TestCaseRegion region = lastRegion;
+            if (region == null || classId != lastClassId || testId != lastTestId) {
+                region = testCaseRegion(classId, testId);
+                lastClassId = classId;
+                lastTestId = testId;
+                lastRegion = region;
             }
 
-            TestCaseRegion region = testCaseRegions.get(testId);
-
             Region streamRegion = isStdout ? region.stdOutRegion : region.stdErrRegion;
 
             long total = output.getWritePosition();
@@ -140,6 +137,21 @@ private void mark(long classId, long testId, boolean isStdout) {
             streamRegion.stop = total;
         }
 
+        private TestCaseRegion testCaseRegion(long classId, long testId) {
+            Map<Long, TestCaseRegion> testCaseRegions = index.get(classId);
+            if (testCaseRegions == null) {
+                testCaseRegions = new LinkedHashMap<Long, TestCaseRegion>();
+                index.put(classId, testCaseRegions);
+            }
+
+            TestCaseRegion region = testCaseRegions.get(testId);
+            if (region == null) {
+                region = new TestCaseRegion();
+                testCaseRegions.put(testId, region);
+            }
+            return region;
+        }
+
         private void writeIndex() {
             Output indexOutput;
             try {
@@ -238,37 +250,7 @@ public Reader() {
                     throw new IllegalStateException(String.format("Test outputs data file '%s' exists but the index file '%s' does not", outputsFile, indexFile));
                 }
 
-                Input input;
-                try {
-                    input = new Input(new FileInputStream(indexFile));
-                } catch (FileNotFoundException e) {
-                    throw new UncheckedIOException(e);
-                }
-
-                IndexBuilder rootBuilder = null;
-                try {
-                    int numClasses = input.readInt(true);
-                    rootBuilder = new IndexBuilder();
-
-                    for (int classCounter = 0; classCounter < numClasses; ++classCounter) {
-                        long classId = input.readLong(true);
-                        IndexBuilder classBuilder = new IndexBuilder();
-
-                        int numEntries = input.readInt(true);
-                        for (int entryCounter = 0; entryCounter < numEntries; ++entryCounter) {
-                            long testId = input.readLong(true);
-                            Region stdOut = new Region(input.readLong(), input.readLong());
-                            Region stdErr = new Region(input.readLong(), input.readLong());
-                            classBuilder.add(testId, new Index(stdOut, stdErr));
-                        }
-
-                        rootBuilder.add(classId, classBuilder.build());
-                    }
-                } finally {
-                    input.close();
-                }
-
-                index = rootBuilder.build();
+                index = loadIndex();
 
                 try {
                     dataFile = new RandomAccessFile(getOutputsFile(), "r");
@@ -372,15 +354,7 @@ private void doRead(long classId, long testId, boolean allClassOutput, TestOutpu
                     if (testId == 0 || testId == readTestId) {
                         byte[] stringBytes = new byte[readLength];
                         decoder.readBytes(stringBytes);
-                        String message;
-                        try {
-                            message = new String(stringBytes, messageStorageCharset.name());
-                        } catch (UnsupportedEncodingException e) {
-                            // shouldn't happen
-                            throw UncheckedException.throwAsUncheckedException(e);
-                        }
-
-                        writer.write(message);
+                        writer.write(new String(stringBytes, messageStorageCharset));
                     } else {
                         decoder.skipBytes(readLength);
                     }
@@ -400,6 +374,55 @@ private Index getIndex(long classId, long testId) {
         }
     }
 
+    /**
+     * Returns the index of the outputs file. The index is read once and then shared by all readers, as the report generators
+     * use a separate reader for each of their worker threads.
+     */
+    private synchronized Index loadIndex() {
+        if (sharedIndex == null) {
+            sharedIndex = readIndex();
+        }
+        return sharedIndex;
+    }
+
+    private synchronized void discardIndex() {
+        sharedIndex = null;
+    }
+
+    private Index readIndex() {
+        Input input;
+        try {
+            input = new Input(new FileInputStream(getIndexFile()));
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        IndexBuilder rootBuilder;
+        try {
+            int numClasses = input.readInt(true);
+            rootBuilder = new IndexBuilder();
+
+            for (int classCounter = 0; classCounter < numClasses; ++classCounter) {
+                long classId = input.readLong(true);
+                IndexBuilder classBuilder = new IndexBuilder();
+
+                int numEntries = input.readInt(true);
+                for (int entryCounter = 0; entryCounter < numEntries; ++entryCounter) {
+                    long testId = input.readLong(true);
+                    Region stdOut = new Region(input.readLong(), input.readLong());
+                    Region stdErr = new Region(input.readLong(), input.readLong());
+                    classBuilder.add(testId, new Index(stdOut, stdErr));
+                }
+
+                rootBuilder.add(classId, classBuilder.build());
+            }
+        } finally {
+            input.close();
+        }
+
+        return rootBuilder.build();
+    }
+
     // IMPORTANT: return must be closed when done with.
     public Reader reader() {
         return new Reader();
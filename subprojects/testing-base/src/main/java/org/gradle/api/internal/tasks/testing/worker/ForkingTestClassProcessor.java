@@ -18,7 +18,6 @@
 
 import org.gradle.api.Action;
 import org.gradle.api.internal.DocumentationRegistry;
-import org.gradle.api.internal.classpath.ModuleRegistry;
 import org.gradle.api.internal.tasks.testing.TestClassProcessor;
 import org.gradle.api.internal.tasks.testing.TestClassRunInfo;
 import org.gradle.api.internal.tasks.testing.TestResultProcessor;
@@ -30,12 +29,8 @@
 import org.gradle.process.internal.worker.WorkerProcess;
 import org.gradle.process.internal.worker.WorkerProcessBuilder;
 import org.gradle.process.internal.worker.WorkerProcessFactory;
-import org.gradle.util.CollectionUtils;
 
 import java.io.File;
-import java.net.URL;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -46,9 +41,8 @@ public class ForkingTestClassProcessor implements TestClassProcessor {
     private final JavaForkOptions options;
     private final Iterable<File> classPath;
     private final Iterable<File> modulePath;
-    private final List<String> testWorkerImplementationModules;
+    private final TestWorkerImplementationClasspath implementationClasspath;
     private final Action<WorkerProcessBuilder> buildConfigAction;
-    private final ModuleRegistry moduleRegistry;
     private final Lock lock = new ReentrantLock();
     private RemoteTestClassProcessor remoteProcessor;
     private WorkerProcess workerProcess;
@@ -58,17 +52,16 @@ public class ForkingTestClassProcessor implements TestClassProcessor {
     private boolean stoppedNow;
 
     public ForkingTestClassProcessor(WorkerLeaseRegistry.WorkerLease parentWorkerLease, WorkerProcessFactory workerFactory, WorkerTestClassProcessorFactory processorFactory, JavaForkOptions options,
-                                     Iterable<File> classPath, Iterable<File> modulePath, List<String> testWorkerImplementationModules,
-                                     Action<WorkerProcessBuilder> buildConfigAction, ModuleRegistry moduleRegistry, DocumentationRegistry documentationRegistry) {
+                                     Iterable<File> classPath, Iterable<File> modulePath, TestWorkerImplementationClasspath implementationClasspath,
+                                     Action<WorkerProcessBuilder> buildConfigAction, DocumentationRegistry documentationRegistry) {
         this.currentWorkerLease = parentWorkerLease;
         this.workerFactory = workerFactory;
         this.processorFactory = processorFactory;
         this.options = options;
         this.classPath = classPath;
         this.modulePath = modulePath;
-        this.testWorkerImplementationModules = testWorkerImplementationModules;
+        this.implementationClasspath = implementationClasspath;
         this.buildConfigAction = buildConfigAction;
-        this.moduleRegistry = moduleRegistry;
         this.documentationRegistry = documentationRegistry;
     }
 
@@ -105,8 +98,8 @@ public void processTestClass(TestClassRunInfo testClass) {
     RemoteTestClassProcessor forkProcess() {
         WorkerProcessBuilder builder = workerFactory.create(new TestWorker(processorFactory));
         builder.setBaseName("Gradle Test Executor");
-        builder.setImplementationClasspath(getTestWorkerImplementationClasspath());
-        builder.setImplementationModulePath(getTestWorkerImplementationModulePath());
+        builder.setImplementationClasspath(implementationClasspath.getClasspath());
+        builder.setImplementationModulePath(implementationClasspath.getModulePath());
         builder.applicationClasspath(classPath);
         builder.applicationModulePath(modulePath);
         options.copyTo(builder.getJavaCommand());
@@ -126,42 +119,6 @@ RemoteTestClassProcessor forkProcess() {
         return remoteProcessor;
     }
 
-    List<URL> getTestWorkerImplementationClasspath() {
-        return CollectionUtils.flattenCollections(URL.class,
-            moduleRegistry.getModule("gradle-core-api").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-worker-processes").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-core").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-logging").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-messaging").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-files").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-file-temp").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-hashing").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-base-services").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-cli").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-native").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-testing-base").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-testing-jvm").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-testing-junit-platform").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-process-services").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getModule("gradle-build-operations").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getExternalModule("slf4j-api").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getExternalModule("jul-to-slf4j").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getExternalModule("native-platform").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getExternalModule("kryo").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getExternalModule("commons-lang").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getExternalModule("junit").getImplementationClasspath().getAsURLs(),
-            moduleRegistry.getExternalModule("javax.inject").getImplementationClasspath().getAsURLs()
-        );
-    }
-
-    List<URL> getTestWorkerImplementationModulePath() {
-        List<URL> modules = new ArrayList<URL>();
-        for(String moduleName : testWorkerImplementationModules) {
-            modules.addAll(moduleRegistry.getExternalModule(moduleName).getImplementationClasspath().getAsURLs());
-        }
-        return modules;
-    }
-
     @Override
     public void stop() {
         try {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.tasks.testing.worker;
+
+import com.google.common.collect.ImmutableList;
+import org.gradle.api.internal.classpath.ModuleRegistry;
+import org.gradle.util.CollectionUtils;
+
+import java.net.URL;
+import java.util.List;
+
+/**
+ * The implementation classpath and module path of the Gradle test worker.
+ *
+ * <p>These only depend on the Gradle distribution and the test framework, so they are resolved once and then shared by every worker process forked for a test execution,
+ * rather than being resolved again each time a worker is started (for example, when using {@code forkEvery}).</p>
+ */
+public class TestWorkerImplementationClasspath {
+    private final ModuleRegistry moduleRegistry;
+    private final List<String> testWorkerImplementationModules;
+    private List<URL> classpath;
+    private List<URL> modulePath;
+
+    public TestWorkerImplementationClasspath(ModuleRegistry moduleRegistry, List<String> testWorkerImplementationModules) {
+        this.moduleRegistry = moduleRegistry;
+        this.testWorkerImplementationModules = testWorkerImplementationModules;
+    }
+
+    public synchronized List<URL> getClasspath() {
+        if (classpath == null) {
+            classpath = ImmutableList.copyOf(CollectionUtils.flattenCollections(URL.class,
+                moduleRegistry.getModule("gradle-core-api").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-worker-processes").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-core").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-logging").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-messaging").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-files").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-file-temp").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-hashing").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-base-services").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-cli").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-native").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-testing-base").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-testing-jvm").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-testing-junit-platform").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-process-services").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getModule("gradle-build-operations").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getExternalModule("slf4j-api").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getExternalModule("jul-to-slf4j").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getExternalModule("native-platform").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getExternalModule("kryo").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getExternalModule("commons-lang").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getExternalModule("junit").getImplementationClasspath().getAsURLs(),
+                moduleRegistry.getExternalModule("javax.inject").getImplementationClasspath().getAsURLs()
+            ));
+        }
+        return classpath;
+    }
+
+    public synchronized List<URL> getModulePath() {
+        if (modulePath == null) {
+            ImmutableList.Builder<URL> modules = ImmutableList.builder();
+            for (String moduleName : testWorkerImplementationModules) {
+                modules.addAll(moduleRegistry.getExternalModule(moduleName).getImplementationClasspath().getAsURLs());
+            }
+            modulePath = modules.build();
+        }
+        return modulePath;
+    }
+}
@@ -98,6 +98,35 @@ class TestOutputStoreSpec extends WorkspaceTest {
         reader.close()
     }
 
+    def "readers see the output of the most recent writer"() {
+        when:
+        def writer = output.writer()
+        writer.onOutput(1, 1, output(StdOut, "[out-1]"))
+        writer.close()
+        def reader = output.reader()
+        def otherReader = output.reader()
+
+        then:
+        collectAllOutput(reader, 1, StdOut) == "[out-1]"
+        collectAllOutput(otherReader, 1, StdOut) == "[out-1]"
+
+        when:
+        reader.close()
+        otherReader.close()
+        writer = output.writer()
+        writer.onOutput(1, 1, output(StdOut, "[out-2]"))
+        writer.onOutput(2, 1, output(StdErr, "[out-3]"))
+        writer.close()
+        reader = output.reader()
+
+        then:
+        collectAllOutput(reader, 1, StdOut) == "[out-2]"
+        collectAllOutput(reader, 2, StdErr) == "[out-3]"
+
+        cleanup:
+        reader?.close()
+    }
+
     def DefaultTestOutputEvent output(TestOutputEvent.Destination destination, String msg) {
         new DefaultTestOutputEvent(destination, msg)
     }
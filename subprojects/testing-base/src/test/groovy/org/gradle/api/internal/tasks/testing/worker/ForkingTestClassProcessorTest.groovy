@@ -45,8 +45,10 @@ class ForkingTestClassProcessorTest extends Specification {
 
     List<String> testWorkerImplementationModules = []
 
+    TestWorkerImplementationClasspath implementationClasspath = new TestWorkerImplementationClasspath(moduleRegistry, testWorkerImplementationModules)
+
     @Subject
-    processor = Spy(ForkingTestClassProcessor, constructorArgs: [workerLease, workerProcessFactory, Mock(WorkerTestClassProcessorFactory), options, [new File("classpath.jar")], [], testWorkerImplementationModules, Mock(Action), moduleRegistry, documentationRegistry])
+    processor = Spy(ForkingTestClassProcessor, constructorArgs: [workerLease, workerProcessFactory, Mock(WorkerTestClassProcessorFactory), options, [new File("classpath.jar")], [], implementationClasspath, Mock(Action), documentationRegistry])
 
     def setup() {
         workerProcessBuilder.build() >> workerProcess
@@ -101,6 +103,22 @@ class ForkingTestClassProcessorTest extends Specification {
         1 * workerProcessBuilder.setImplementationModulePath(_) >> { assert it[0].size() == 3 }
     }
 
+    def "resolves implementation classpath once for all forked processes"() {
+        def other = new ForkingTestClassProcessor(Stub(WorkerLeaseRegistry.WorkerLease), workerProcessFactory, Mock(WorkerTestClassProcessorFactory), options, [new File("classpath.jar")], [], implementationClasspath, Mock(Action), documentationRegistry)
+
+        setup:
+        2 * workerProcess.getConnection() >> Stub(ObjectConnection) { addOutgoing(_) >> Stub(RemoteTestClassProcessor) }
+
+        when:
+        processor.forkProcess()
+        other.forkProcess()
+
+        then:
+        16 * moduleRegistry.getModule(_) >> { module(it[0]) }
+        7 * moduleRegistry.getExternalModule(_) >> { module(it[0]) }
+        2 * workerProcessBuilder.setImplementationClasspath(_) >> { assert it[0].size() == 23 }
+    }
+
     def "stopNow does nothing when no remote processor"() {
         when:
         processor.stopNow()
@@ -111,7 +129,7 @@ class ForkingTestClassProcessorTest extends Specification {
     }
 
     def "stopNow propagates to worker process"() {
-        ForkingTestClassProcessor processor = new ForkingTestClassProcessor(Stub(WorkerLeaseRegistry.WorkerLease), workerProcessFactory, Mock(WorkerTestClassProcessorFactory), options, [new File("classpath.jar")], [], [], Mock(Action), Stub(ModuleRegistry), documentationRegistry)
+        ForkingTestClassProcessor processor = new ForkingTestClassProcessor(Stub(WorkerLeaseRegistry.WorkerLease), workerProcessFactory, Mock(WorkerTestClassProcessorFactory), options, [new File("classpath.jar")], [], new TestWorkerImplementationClasspath(Stub(ModuleRegistry), []), Mock(Action), documentationRegistry)
 
         setup:
         1 * workerProcess.getConnection() >> Stub(ObjectConnection) { addOutgoing(_) >> Stub(RemoteTestClassProcessor) }
@@ -125,7 +143,7 @@ class ForkingTestClassProcessorTest extends Specification {
     }
 
     def "no exception when stop after stopNow"() {
-        ForkingTestClassProcessor processor = new ForkingTestClassProcessor(Stub(WorkerLeaseRegistry.WorkerLease), workerProcessFactory, Mock(WorkerTestClassProcessorFactory), options, [new File("classpath.jar")], [], [], Mock(Action), Stub(ModuleRegistry), documentationRegistry)
+        ForkingTestClassProcessor processor = new ForkingTestClassProcessor(Stub(WorkerLeaseRegistry.WorkerLease), workerProcessFactory, Mock(WorkerTestClassProcessorFactory), options, [new File("classpath.jar")], [], new TestWorkerImplementationClasspath(Stub(ModuleRegistry), []), Mock(Action), documentationRegistry)
 
         setup:
         1 * workerProcess.getConnection() >> Stub(ObjectConnection) { addOutgoing(_) >> Stub(RemoteTestClassProcessor) }
@@ -47,7 +47,7 @@
 
     private List<File> testClassDirectories;
     private final ClassFileExtractionManager classFileExtractionManager;
-    private final Map<File, Boolean> superClasses;
+    private final Map<String, Boolean> testClassResults;
     private TestClassProcessor testClassProcessor;
 
     private Set<File> testClassesDirectories;
@@ -56,7 +56,7 @@
     protected AbstractTestFrameworkDetector(ClassFileExtractionManager classFileExtractionManager) {
         assert classFileExtractionManager != null;
         this.classFileExtractionManager = classFileExtractionManager;
-        this.superClasses = new HashMap<File, Boolean>();
+        this.testClassResults = new HashMap<String, Boolean>();
     }
 
     protected abstract T createClassVisitor();
@@ -160,17 +160,11 @@ private boolean processTestClass(File testClassFile, boolean superClass, Factory
             if (isKnownTestCaseClassName(superClassName)) {
                 isTest = true;
             } else {
-                File superClassFile = getSuperTestClassFile(superClassName);
-
-                if (superClassFile != null) {
-                    isTest = processSuperClass(superClassFile, superClassName);
-                } else {
-                    LOGGER.debug("test-class-scan : failed to scan parent class {}, could not find the class file",
-                        superClassName);
-                }
+                isTest = processSuperClass(superClassName);
             }
         }
 
+        testClassResults.put(testClass.getClassName(), isTest);
         publishTestClass(isTest, testClass, superClass);
 
         return isTest;
@@ -178,19 +172,26 @@ private boolean processTestClass(File testClassFile, boolean superClass, Factory
 
     protected abstract boolean isKnownTestCaseClassName(String testCaseClassName);
 
-    private boolean processSuperClass(File testClassFile, String superClassName) {
-        boolean isTest;
-
-        Boolean isSuperTest = superClasses.get(testClassFile);
-
-        if (isSuperTest == null) {
-            isTest = processTestClass(testClassFile, true, Factories.constant(superClassName));
+    /**
+     * Determines whether the given super class is a test class. The result is remembered by class name, for classes that are scanned directly as well as for super
+     * classes, so that a class hierarchy shared by many test classes is only located and read once.
+     */
+    private boolean processSuperClass(String superClassName) {
+        Boolean isSuperTest = testClassResults.get(superClassName);
+        if (isSuperTest != null) {
+            return isSuperTest;
+        }
 
-            superClasses.put(testClassFile, isTest);
+        boolean isTest = false;
+        File superClassFile = getSuperTestClassFile(superClassName);
+        if (superClassFile != null) {
+            isTest = processTestClass(superClassFile, true, Factories.constant(superClassName));
         } else {
-            isTest = isSuperTest;
+            LOGGER.debug("test-class-scan : failed to scan parent class {}, could not find the class file",
+                superClassName);
         }
 
+        testClassResults.put(superClassName, isTest);
         return isTest;
     }
 
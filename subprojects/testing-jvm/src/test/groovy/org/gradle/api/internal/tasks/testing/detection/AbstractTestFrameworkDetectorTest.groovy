@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.tasks.testing.detection
+
+import org.gradle.api.file.RelativePath
+import org.gradle.api.internal.file.RelativeFile
+import org.gradle.api.internal.tasks.testing.TestClassProcessor
+import org.gradle.test.fixtures.file.TestFile
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import org.objectweb.asm.AnnotationVisitor
+import org.objectweb.asm.ClassWriter
+import org.objectweb.asm.Opcodes
+import spock.lang.Specification
+
+class AbstractTestFrameworkDetectorTest extends Specification {
+    private static final String TEST_ANNOTATION = "Lorg/gradle/TestMarker;"
+
+    @Rule
+    TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider(getClass())
+
+    def classesDir = tmpDir.createDir("classes")
+    def extractionManager = Mock(ClassFileExtractionManager)
+    def processor = Mock(TestClassProcessor)
+    def detector = new RecordingDetector(extractionManager)
+
+    def setup() {
+        detector.testClasses = [classesDir] as Set
+        detector.testClasspath = [] as Set
+        detector.startDetection(processor)
+    }
+
+    def "reads shared abstract test base class once for all of its subclasses"() {
+        given:
+        writeClass("org/gradle/AbstractTestBase", "java/lang/Object", Opcodes.ACC_ABSTRACT, true)
+        def first = writeClass("org/gradle/FirstTest", "org/gradle/AbstractTestBase")
+        def second = writeClass("org/gradle/SecondTest", "org/gradle/AbstractTestBase")
+
+        when:
+        def firstIsTest = detector.processTestClass(first)
+        def secondIsTest = detector.processTestClass(second)
+
+        then:
+        firstIsTest
+        secondIsTest
+        detector.readClasses == ["org/gradle/FirstTest", "org/gradle/AbstractTestBase", "org/gradle/SecondTest"]
+
+        and:
+        1 * processor.processTestClass({ it.testClassName == "org.gradle.FirstTest" })
+        1 * processor.processTestClass({ it.testClassName == "org.gradle.SecondTest" })
+        0 * processor._
+        0 * extractionManager._
+    }
+
+    def "does not read a test base class again when it has been scanned directly"() {
+        given:
+        def base = writeClass("org/gradle/AbstractTestBase", "java/lang/Object", Opcodes.ACC_ABSTRACT, true)
+        def first = writeClass("org/gradle/FirstTest", "org/gradle/AbstractTestBase")
+
+        when:
+        detector.processTestClass(base)
+        detector.processTestClass(first)
+
+        then:
+        detector.readClasses == ["org/gradle/AbstractTestBase", "org/gradle/FirstTest"]
+
+        and:
+        1 * processor.processTestClass({ it.testClassName == "org.gradle.FirstTest" })
+        0 * processor._
+    }
+
+    def "does not look up a missing super class again"() {
+        given:
+        def first = writeClass("org/gradle/First", "org/gradle/MissingBase")
+        def second = writeClass("org/gradle/Second", "org/gradle/MissingBase")
+
+        when:
+        def firstIsTest = detector.processTestClass(first)
+        def secondIsTest = detector.processTestClass(second)
+
+        then:
+        !firstIsTest
+        !secondIsTest
+        detector.readClasses == ["org/gradle/First", "org/gradle/Second"]
+
+        and:
+        1 * extractionManager.getLibraryClassFile("org/gradle/MissingBase") >> null
+        0 * extractionManager._
+        0 * processor._
+    }
+
+    private RelativeFile writeClass(String name, String superName, int access = 0, boolean test = false) {
+        ClassWriter cw = new ClassWriter(0)
+        cw.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC | access, name, null, superName, null)
+        if (test) {
+            cw.visitAnnotation(TEST_ANNOTATION, true).visitEnd()
+        }
+        cw.visitEnd()
+
+        TestFile classFile = classesDir.file("${name}.class")
+        classFile.parentFile.mkdirs()
+        classFile.bytes = cw.toByteArray()
+        return new RelativeFile(classFile, RelativePath.parse(true, "${name}.class"))
+    }
+
+    private static class RecordingDetector extends AbstractTestFrameworkDetector<TestClassVisitor> {
+        final List<String> readClasses = []
+
+        RecordingDetector(ClassFileExtractionManager classFileExtractionManager) {
+            super(classFileExtractionManager)
+        }
+
+        @Override
+        protected TestClassVisitor createClassVisitor() {
+            return new RecordingClassVisitor(this)
+        }
+
+        @Override
+        protected boolean isKnownTestCaseClassName(String testCaseClassName) {
+            return false
+        }
+    }
+
+    private static class RecordingClassVisitor extends TestClassVisitor {
+        RecordingClassVisitor(RecordingDetector detector) {
+            super(detector)
+        }
+
+        @Override
+        void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            super.visit(version, access, name, signature, superName, interfaces)
+            ((RecordingDetector) detector).readClasses << name
+        }
+
+        @Override
+        AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+            if (TEST_ANNOTATION == desc) {
+                setTest(true)
+            }
+            return null
+        }
+
+        @Override
+        protected boolean ignoreNonStaticInnerClass() {
+            return false
+        }
+    }
+}